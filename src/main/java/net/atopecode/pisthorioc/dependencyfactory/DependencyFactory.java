@@ -5,6 +5,7 @@ import net.atopecode.pisthorioc.exceptions.IocDependencyException;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Esta clase indica como se debe crear un objeto dependencia durante el proceso de registro.
@@ -12,6 +13,8 @@ import java.util.function.Function;
  * Se indica si la creación del objeto dependencia será del tipo 'Singleton' o 'Prototype'.
  * Se indica por medio de una 'Function' la creación del objeto y las otras dependencias que necesita inyectar via
  * constructor.
+ * Las dependencias de tipo 'Prototype' también se pueden registrar con una 'Function' que resuelve una sola vez sus
+ * dependencias y devuelve un 'Supplier' que crea cada nueva instancia (ver 'DependencyFactory.boundPrototype()').
  * @param <TResult>
  *     Tipo de dato del objeto dependencia.
  */
@@ -29,6 +32,7 @@ public class DependencyFactory<TResult> {
     private final String name;
     private final DependencyType type;
     private final Function<IDependencyResolver, TResult> factory;
+    private final Function<IDependencyResolver, Supplier<TResult>> binder;
 
     /**
      * Se indica como debe ser la creación de un objeto dependencia.
@@ -55,12 +59,46 @@ public class DependencyFactory<TResult> {
      *  en la 'Function'.
      */
     public DependencyFactory(String name, DependencyType type, Function<IDependencyResolver, TResult> factory){
+        this(name, type, factory, null);
+    }
+
+    private DependencyFactory(String name, DependencyType type, Function<IDependencyResolver, TResult> factory,
+                              Function<IDependencyResolver, Supplier<TResult>> binder){
         this.name = name;
         this.type = type;
         this.factory = factory;
+        this.binder = binder;
         checkParams();
     }
 
+    /**
+     * Se indica como debe ser la creación de un objeto dependencia de tipo 'Prototype' cuyas dependencias se resuelven
+     * una sola vez.
+     * La 'Function' recibida como parámetro se ejecuta solo la primera vez que se intenta resolver la dependencia
+     * (o durante la carga del contenedor con 'IocContainer.loadContent()'). En ella se deben resolver las dependencias
+     * necesarias por medio del objeto 'IDependencyResolver' y devolver un 'Supplier' que las capture. El contenedor
+     * guarda dicho 'Supplier' y cada vez que se resuelva la dependencia solo se ejecuta el 'Supplier' para crear
+     * una nueva instancia, sin volver a resolver sus dependencias.
+     * Las dependencias capturadas deberían ser de tipo 'Singleton', ya que una dependencia de tipo 'Prototype'
+     * capturada será siempre el mismo objeto para todas las instancias creadas.
+     * @param name
+     *  Nombre para identificar al objeto dependencia.
+     * @param binder
+     *  'Function' que resuelve las dependencias necesarias por medio del objeto 'IDependencyResolver' y devuelve un
+     *  'Supplier' que crea cada nueva instancia del objeto dependencia.
+     * @param <TResult>
+     *  Tipo de dato del objeto dependencia.
+     * @return
+     *  Objeto 'DependencyFactory' de tipo 'Prototype'.
+     */
+    public static <TResult> DependencyFactory<TResult> boundPrototype(String name, Function<IDependencyResolver, Supplier<TResult>> binder){
+        if(binder == null){
+            throw new IocDependencyException("Parameter 'binder' must be not null.");
+        }
+
+        return new DependencyFactory<>(name, DependencyType.PROTOTYPE, null, binder);
+    }
+
     public String getName() {
         return name;
     }
@@ -69,10 +107,55 @@ public class DependencyFactory<TResult> {
         return type;
     }
 
+    /**
+     * Devuelve la 'Function' que crea el objeto dependencia.
+     * @return
+     * La 'Function' registrada.
+     * @throws IocDependencyException
+     * Si la dependencia se registró con 'DependencyFactory.boundPrototype()' (se debe utilizar el método 'bind()').
+     */
     public Function<IDependencyResolver, TResult> getFactory(){
+        if(binder != null){
+            throw new IocDependencyException("The ioc dependency with name '" + name + "' is a bound prototype, use 'bind()' instead of 'getFactory()'.");
+        }
+
         return factory;
     }
 
+    /**
+     * Indica si la dependencia se registró con 'DependencyFactory.boundPrototype()', es decir, si sus dependencias se
+     * resuelven una sola vez y se guarda en el contenedor un 'Supplier' para crear cada nueva instancia.
+     * @return
+     * 'true' si la dependencia tiene un 'binder'.
+     * 'false' si la dependencia se crea siempre con su 'factory'.
+     */
+    public boolean isBound(){
+        return (binder != null);
+    }
+
+    /**
+     * Ejecuta el 'binder' de la dependencia para resolver sus dependencias y obtener el 'Supplier' que crea cada
+     * nueva instancia.
+     * @param resolver
+     *  Objeto 'IDependencyResolver' para resolver las dependencias necesarias.
+     * @return
+     *  'Supplier' que crea cada nueva instancia del objeto dependencia.
+     * @throws IocDependencyException
+     *  Si la dependencia no tiene 'binder' o el 'binder' devuelve 'null'.
+     */
+    public Supplier<TResult> bind(IDependencyResolver resolver){
+        if(binder == null){
+            throw new IocDependencyException("The ioc dependency with name '" + name + "' has no registered binder.");
+        }
+
+        Supplier<TResult> supplier = binder.apply(resolver);
+        if(supplier == null){
+            throw new IocDependencyException("The binder of ioc dependency with name '" + name + "' must not return null.");
+        }
+
+        return supplier;
+    }
+
     public boolean isTypeSingleton(){
         return this.type.equals(DependencyType.SINGLETON);
     }
@@ -86,7 +169,7 @@ public class DependencyFactory<TResult> {
             throw new IocDependencyException("Parameter 'name' must be not null.");
         }
 
-        if(factory == null){
+        if(factory == null && binder == null){
             throw new IocDependencyException("Parameter 'factory' must be not null.");
         }
 
@@ -101,6 +184,7 @@ public class DependencyFactory<TResult> {
                 "name='" + name + '\'' +
                 ", type=" + type +
                 ", factory=" + factory +
+                ", binder=" + binder +
                 '}';
     }
 }
@@ -5,9 +5,11 @@ import net.atopecode.pisthorioc.exceptions.*;
 import net.atopecode.pisthorioc.normalizername.NormalizerName;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
 
@@ -30,12 +32,34 @@ public class DependencyResolver implements IDependencyResolver {
 
     private final Map<String, Object> mapObjects;
     private final Map<String, DependencyFactory> mapFactory;
+    private final Map<String, Supplier<?>> mapSuppliers; //'Suppliers' de las dependencias 'Prototype' registradas con 'DependencyFactory.boundPrototype()' que ya tienen sus dependencias resueltas.
     private final Set<String> pendingToInject; //Se usa para comprobar que no se produzca inyección de dependencias circulares (bluce infinito).
 
+    //Los 'Suppliers' de las dependencias 'DependencyFactory.boundPrototype()' solo se guardan mientras exista este objeto.
     public  DependencyResolver(Map<String, Object> mapObjects,
                                Map<String, DependencyFactory> mapFactory){
+        this(mapObjects, mapFactory, new HashMap<>());
+    }
+
+    /**
+     * Crea un 'DependencyResolver' que comparte con el contenedor los 'Suppliers' de las dependencias registradas con
+     * 'DependencyFactory.boundPrototype()'.
+     * La hashmap 'mapSuppliers' se modifica directamente: se añade el 'Supplier' de cada dependencia la primera vez que
+     * se resuelve y nunca se elimina. Es responsabilidad de quien crea este objeto eliminar de 'mapSuppliers' el
+     * 'Supplier' de una dependencia cuando se sobreescriba su registro.
+     * @param mapObjects
+     *  Dependencias de tipo 'Singleton' almacenadas en el contenedor.
+     * @param mapFactory
+     *  Dependencias registradas en el contenedor.
+     * @param mapSuppliers
+     *  'Suppliers' de las dependencias 'DependencyFactory.boundPrototype()' con sus dependencias ya resueltas.
+     */
+    public  DependencyResolver(Map<String, Object> mapObjects,
+                               Map<String, DependencyFactory> mapFactory,
+                               Map<String, Supplier<?>> mapSuppliers){
         this.mapObjects = requireNonNull(mapObjects);
         this.mapFactory = requireNonNull(mapFactory);
+        this.mapSuppliers = requireNonNull(mapSuppliers);
         this.pendingToInject = new HashSet<>();
     }
 
@@ -97,7 +121,7 @@ public class DependencyResolver implements IDependencyResolver {
         if(factory == null) throw new IocDependencyFactoryNotFoundException("There is no registered factory for dependency with name '" + name + "'");
 
         //Produce llamadas recursivas al método 'resolve()':
-        Object object = factory.getFactory().apply(this);
+        Object object = (factory.isBound()) ? getSupplier(name, factory).get() : factory.getFactory().apply(this);
         if(object == null) throw new IocDependencyNotFoundException("Not found dependency with name '" + name + "'");
 
         //Se guarda la dependencia solo si es de tipo 'Singleton', sino la próxima vez que se intente inyectar se creará una nueva instancia del objeto.
@@ -106,6 +130,19 @@ public class DependencyResolver implements IDependencyResolver {
         return object;
     }
 
+    //Recupera de la hashmap 'mapSuppliers' el 'Supplier' de una dependencia registrada con 'DependencyFactory.boundPrototype()'.
+    //La primera vez se ejecuta su 'binder' (posibles llamadas recursivas al método 'resolve()') y se guarda el 'Supplier' devuelto,
+    //así las siguientes veces solo se ejecuta el constructor de la dependencia sin volver a resolver las dependencias capturadas.
+    private Supplier<?> getSupplier(String name, DependencyFactory<? extends Object> factory){
+        Supplier<?> supplier = mapSuppliers.get(name);
+        if(supplier == null){
+            supplier = factory.bind(this);
+            mapSuppliers.put(name, supplier);
+        }
+
+        return supplier;
+    }
+
     //Recupera un objeto de la hashmap 'mapObjects' si existe, sino devuelve 'null'. Se hace casting del objeto recuperado
     //al tipo de dato indicado como genérico del parámetro 'classObject'.
     private <T> T getObjectFromMap(String name, Class<? extends T> classObject){
@@ -13,6 +13,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 
 /**
@@ -27,6 +28,8 @@ import java.util.function.Function;
  * en otra dependencia.
  * Las dependencias de tipo 'Prototype' no se almacenan dentro del contenedor. Se crea una nueva instancia (nuevo objeto)
  * cada vez que se intentan resolver o inyectar a su vez en otra dependencia.
+ * Las dependencias de tipo 'Prototype' registradas con el método 'registerBoundPrototype()' resuelven sus dependencias
+ * una sola vez y el contenedor guarda un 'Supplier' que solo ejecuta el constructor cada vez que se crea una nueva instancia.
  *
  * Las dependencias registradas se van creando a medida que se intentan resolver.
  * Pueden producirse varios errores debido a un mal uso del contenedor, por haber registrado mal alguna dependencia o porque se está intentando
@@ -46,6 +49,7 @@ public class IocContainer {
 
     private final Map<String, Object> mapObjects;
     private final Map<String, DependencyFactory> mapFactory;
+    private final Map<String, Supplier<?>> mapSuppliers;
 
     public IocContainer(){
         this(null);
@@ -54,6 +58,7 @@ public class IocContainer {
     public IocContainer(Logger logger){
         this.mapObjects = new TreeMap<>(); //Podría ser perfectamente un 'HashMap', no importa el orden de los objetos, pero se utiliza 'TreeMap' para que en el método 'logContent()' se muestren por orden de resolución.
         this.mapFactory = new HashMap<>();
+        this.mapSuppliers = new HashMap<>();
         setLogger(logger);
     }
 
@@ -125,6 +130,28 @@ public class IocContainer {
         return register(new DependencyFactory<>(name, type, factory));
     }
 
+    /**
+     * Se registra la creación de un objeto como dependencia de tipo 'Prototype' cuyas dependencias se resuelven una sola vez.
+     * La 'Function' recibida como parámetro se ejecuta la primera vez que se intenta resolver la dependencia (o durante la
+     * carga del contenedor con 'loadContent()') y el 'Supplier' que devuelve se guarda dentro del contenedor. Cada vez que
+     * se resuelva la dependencia solo se ejecuta dicho 'Supplier' para crear una nueva instancia.
+     * Las dependencias capturadas por el 'Supplier' deberían ser de tipo 'Singleton'.
+     * El objeto devuelto por la 'Function' se utiliza siempre como 'Supplier' y no como dependencia, aunque su tipo de dato
+     * sea el de la dependencia que se registra.
+     * @param name
+     *  Nombre para identificar al objeto dependencia.
+     * @param binder
+     *  'Function' que debe resolver las dependencias necesarias por medio del objeto 'IDependencyResolver' recibido como
+     *  parámetro y devolver un 'Supplier' que las capture y cree cada nueva instancia del objeto dependencia.
+     * @param <TResult>
+     *  Tipo de dato del objeto depedencia.
+     * @return
+     *  El objeto 'IocContainer' para poder hacer programación 'fluentApi'
+     */
+    public <TResult> IocContainer registerBoundPrototype(String name, Function<IDependencyResolver, Supplier<TResult>> binder){
+        return register(DependencyFactory.boundPrototype(name, binder));
+    }
+
     /**
      * Se registra la creación de un objeto como dependencia y las posibles dependencias que necesita inyectar via constructor
      * para su creación.
@@ -144,6 +171,7 @@ public class IocContainer {
 
         String name = NormalizerName.normalize(factory.getName());
         mapFactory.put(name, factory);
+        mapSuppliers.remove(name); //Si se sobreescribe el registro, el 'Supplier' guardado pertenece al registro anterior.
 
         return this;
     }
@@ -174,7 +202,7 @@ public class IocContainer {
         }
 
         //Se crea un nuevo objeto 'DependencyResolver' cada vez para poder detectar posibles 'dependencias circulares'.
-        DependencyResolver resolver = new DependencyResolver(mapObjects, mapFactory);
+        DependencyResolver resolver = new DependencyResolver(mapObjects, mapFactory, mapSuppliers);
         return resolver.resolve(name, classResult);
     }
 